@@ -1,10 +1,12 @@
 package iocia.network.plugins.iconfig;
 
+import iocia.network.plugins.iconfig.components.ConfigTemplate;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,6 +21,7 @@ public class LinkedConfigs<T> {
     private Map<T, IConfig> configMap;
     private final File directory;
     private Map<String, Object> defaults;
+    private ConfigTemplate template;
 
     /*---Constructors---*/
     /**
@@ -93,6 +96,8 @@ public class LinkedConfigs<T> {
         if (configMap.containsKey(key) && !overwrite)
             return false;
         configMap.put(key, new IConfig(directory, filename));
+        if (template != null)
+            configMap.get(key).copyPremadeConfig(template);
         configMap.get(key).addDefaults(defaults);
         configMap.get(key).options().copyDefaults(true);
         return true;
@@ -150,4 +155,26 @@ public class LinkedConfigs<T> {
         defaults.put(key, value);
     }
 
+    /**
+     * Sets the pre-made configuration which every newly created configuration file
+     * will be initialized with. The template is parsed only once and copied in memory
+     * for each new configuration file.
+     * @param template Pre-parsed template, or null to no longer use a template.
+     * @see iocia.network.plugins.iconfig.components.ConfigHandler#copyPremadeConfig(ConfigTemplate)
+     */
+    public void setTemplate(ConfigTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * Reads and parses the given stream as the pre-made configuration which every
+     * newly created configuration file will be initialized with.
+     * @param internalFile InputStream of the internal jar file to use as the template.
+     * @throws IOException If an I/O error occurs while reading.
+     * @throws InvalidConfigurationException Thrown if the stream has an invalid configuration.
+     */
+    public void setTemplate(InputStream internalFile) throws IOException, InvalidConfigurationException {
+        setTemplate(new ConfigTemplate(internalFile));
+    }
+
 }
@@ -6,16 +6,16 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.CopyOption;
 import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 
 /**
  * Manages the configuration data which is saved to and accessed from the system file.
  */
 public abstract class ConfigHandler extends FileLoader {
 
+    /*---Data---*/
+    private ConfigTemplate pendingTemplate;
+
     /*---Constructors---*/
     public ConfigHandler(File baseDirectory, String subDirectories, String fileName) throws IOException, InvalidConfigurationException {
         super(baseDirectory, subDirectories, fileName);
@@ -51,19 +51,62 @@ public abstract class ConfigHandler extends FileLoader {
         save(systemFile);
     }
 
+    /**
+     * Saves the configuration to the given file. If the configuration was created from a
+     * {@link ConfigTemplate} and still holds exactly the values of the template, the exact
+     * Byte data of the template is written instead, keeping any commented lines and layout.
+     * @param file File to save to.
+     * @throws IOException Thrown when the file cannot be written to.
+     */
+    @Override
+    public void save(File file) throws IOException {
+        if (pendingTemplate != null && file.equals(systemFile) && pendingTemplate.matches(saveToString())) {
+            systemFile.getParentFile().mkdirs();
+            Files.write(systemFile.toPath(), pendingTemplate.getRawData());
+        } else {
+            super.save(file);
+        }
+        if (file.equals(systemFile))
+            pendingTemplate = null;
+    }
+
+    /**
+     * Initializes a newly created configuration with the values of the given template.
+     * The template is copied in memory and nothing is written to the system file until
+     * the first {@link #save()}. If the values are unchanged at that point, the exact Byte
+     * data of the template is written, keeping any commented lines and layout.
+     * This allows a single template to cheaply initialize many configuration files.
+     *
+     * Since an unsaved configuration leaves an empty system file behind, an already
+     * existing, but empty, system file is also initialized with the template. This means
+     * a configuration file which has deliberately been emptied will be refilled.
+     * @param template Pre-parsed template to copy.
+     */
+    public void copyPremadeConfig(ConfigTemplate template) {
+        if (!isFirstLoad() && systemFile.length() != 0)
+            return;
+        template.copyTo(this);
+        pendingTemplate = template;
+    }
+
     /**
      * Copies the exact Byte data of the given stream to the system file.
      * Used to pre-define the exact look and layout of a configuration files.
      * This means initial configuration files can be created with commented lines
      * anywhere and the exact order of the configuration options can be controlled.
+     *
+     * When initializing many configuration files from the same layout, create a single
+     * {@link ConfigTemplate} and use {@link #copyPremadeConfig(ConfigTemplate)} instead.
      * @param internalFile InputStream of the internal jar file to copy.
      * @throws IOException If an I/O error occurs while reading or writing.
+     * @throws InvalidConfigurationException Thrown if the stream has an invalid configuration.
      */
     public void copyPremadeConfig(InputStream internalFile) throws IOException, InvalidConfigurationException {
         if (!isFirstLoad())
             return;
-        Files.copy(internalFile, Paths.get(systemFile.getAbsolutePath()), StandardCopyOption.REPLACE_EXISTING);
-        load(systemFile);
+        ConfigTemplate template = new ConfigTemplate(internalFile);
+        Files.write(systemFile.toPath(), template.getRawData());
+        template.copyTo(this);
     }
 
 }
@@ -0,0 +1,129 @@
+package iocia.network.plugins.iconfig.components;
+
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-made configuration layout which is read and parsed only once.
+ * Newly created configuration files are initialized by copying the
+ * already parsed values instead of re-reading and re-parsing the
+ * internal jar file for every new configuration.
+ */
+public class ConfigTemplate {
+
+    /*---Data---*/
+    private final byte[] rawData;
+    private final YamlConfiguration parsed;
+    private String parsedContents;
+
+    /*---Constructors---*/
+    /**
+     * Reads and parses the given stream. The stream is fully read but NOT closed.
+     * The data is decoded with the same charset the server uses to load configuration files.
+     * @param internalFile InputStream of the internal jar file to use as the template.
+     * @throws IOException If an I/O error occurs while reading.
+     * @throws InvalidConfigurationException Thrown if the stream has an invalid configuration.
+     */
+    @SuppressWarnings("deprecation")
+    public ConfigTemplate(InputStream internalFile) throws IOException, InvalidConfigurationException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[4096];
+        int read;
+        while ((read = internalFile.read(chunk)) != -1)
+            buffer.write(chunk, 0, read);
+        rawData = buffer.toByteArray();
+        parsed = new YamlConfiguration();
+        parsed.load(new ByteArrayInputStream(rawData));
+    }
+
+    /*---Methods---*/
+    /**
+     * Returns the exact Byte data of the template, including any commented lines.
+     * @return Raw template data. The returned array must not be modified.
+     */
+    byte[] getRawData() {
+        return rawData;
+    }
+
+    /**
+     * Used to determine if the given serialized configuration still holds exactly
+     * the values of the template, in which case the raw template data can be
+     * written in place of the serialized configuration.
+     * @param contents Serialized configuration to compare.
+     * @return true if unchanged from the template; false if not.
+     */
+    boolean matches(String contents) {
+        if (parsedContents == null)
+            parsedContents = parsed.saveToString();
+        return parsedContents.equals(contents);
+    }
+
+    /**
+     * Copies every value of the template into the given configuration.
+     * Sections, lists, maps, dates and deserialized objects are copied so that no
+     * mutable state is shared between the template and the configurations created from it.
+     * @param config Configuration to copy the template into.
+     */
+    void copyTo(YamlConfiguration config) {
+        config.options().header(parsed.options().header());
+        copySection(parsed, config);
+    }
+
+    private static void copySection(ConfigurationSection from, ConfigurationSection to) {
+        for (String key : from.getKeys(false)) {
+            if (from.isConfigurationSection(key))
+                copySection(from.getConfigurationSection(key), to.createSection(key));
+            else
+                to.set(key, copyValue(from.get(key)));
+        }
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object element : (List<?>) value)
+                copy.add(copyValue(element));
+            return copy;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+                copy.put(entry.getKey(), copyValue(entry.getValue()));
+            return copy;
+        }
+        if (value instanceof Date)
+            return new Date(((Date) value).getTime());
+        if (value instanceof ItemStack)
+            return ((ItemStack) value).clone();
+        if (value instanceof Location)
+            return ((Location) value).clone();
+        if (value instanceof Vector)
+            return ((Vector) value).clone();
+        if (value instanceof ConfigurationSerializable) {
+            Map<String, Object> serialized = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((ConfigurationSerializable) value).serialize().entrySet())
+                serialized.put(entry.getKey(), copyValue(entry.getValue()));
+            ConfigurationSerializable copy = ConfigurationSerialization.deserializeObject(serialized,
+                    value.getClass().asSubclass(ConfigurationSerializable.class));
+            return copy == null ? value : copy;
+        }
+        return value;
+    }
+
+}